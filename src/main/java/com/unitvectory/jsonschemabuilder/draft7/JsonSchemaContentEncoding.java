@@ -0,0 +1,45 @@
+/*
+ * Copyright 2020 Jared Hatfield, UnitVectorY Labs
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.unitvectory.jsonschemabuilder.draft7;
+
+/**
+ * The encodings for string content defined by RFC 2045 and used by the
+ * contentEncoding keyword.
+ */
+public enum JsonSchemaContentEncoding {
+
+	SEVEN_BIT("7bit"),
+
+	EIGHT_BIT("8bit"),
+
+	BINARY("binary"),
+
+	QUOTED_PRINTABLE("quoted-printable"),
+
+	BASE64("base64"),
+
+	;
+
+	private final String encoding;
+
+	private JsonSchemaContentEncoding(String encoding) {
+		this.encoding = encoding;
+	}
+
+	public String getEncoding() {
+		return this.encoding;
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2020 Jared Hatfield, UnitVectorY Labs
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.unitvectory.jsonschemabuilder.draft7;
+
+/**
+ * The built-in formats for string values defined by JSON Schema draft 7.
+ */
+public enum JsonSchemaFormat {
+
+	DATE_TIME("date-time"),
+
+	DATE("date"),
+
+	TIME("time"),
+
+	EMAIL("email"),
+
+	IDN_EMAIL("idn-email"),
+
+	HOSTNAME("hostname"),
+
+	IDN_HOSTNAME("idn-hostname"),
+
+	IPV4("ipv4"),
+
+	IPV6("ipv6"),
+
+	URI("uri"),
+
+	URI_REFERENCE("uri-reference"),
+
+	IRI("iri"),
+
+	IRI_REFERENCE("iri-reference"),
+
+	URI_TEMPLATE("uri-template"),
+
+	JSON_POINTER("json-pointer"),
+
+	RELATIVE_JSON_POINTER("relative-json-pointer"),
+
+	REGEX("regex"),
+
+	;
+
+	private final String format;
+
+	private JsonSchemaFormat(String format) {
+		this.format = format;
+	}
+
+	public String getFormat() {
+		return this.format;
+	}
+}
@@ -15,43 +15,50 @@
  */
 package com.unitvectory.jsonschemabuilder.draft7;
 
+import java.math.BigDecimal;
+
 import org.json.JSONObject;
 
 public class JsonSchemaInteger extends AbstractJsonSchema {
 
-	private final JsonSchemaType type = JsonSchemaType.INTEGER;
+	private static final JsonSchemaType TYPE = JsonSchemaType.INTEGER;
 
-	private final boolean required;
+	/**
+	 * The required, readOnly and writeOnly keywords and the kind of each numeric
+	 * keyword, packed as described by {@link JsonSchemaNumeric}.
+	 */
+	private final int flags;
 
 	private final String title;
 
 	private final String description;
 
-	private final Boolean readOnly;
-
-	private final Boolean writeOnly;
-
-	private final Integer multipleOf;
-
-	private final Integer minimum;
-
-	private final Integer exclusiveMinimum;
-
-	private final Integer maximum;
+	/**
+	 * The LONG and DOUBLE numeric keyword values that are set, in keyword order,
+	 * or null if there are none.
+	 */
+	private final long[] values;
 
-	private final Integer exclusiveMaximum;
+	private final BigDecimal[] decimals;
 
 	private JsonSchemaInteger(Builder builder) {
-		this.required = builder.required;
 		this.title = builder.title;
 		this.description = builder.description;
-		this.readOnly = builder.readOnly;
-		this.writeOnly = builder.writeOnly;
-		this.multipleOf = builder.multipleOf;
-		this.minimum = builder.minimum;
-		this.exclusiveMinimum = builder.exclusiveMinimum;
-		this.maximum = builder.maximum;
-		this.exclusiveMaximum = builder.exclusiveMaximum;
+
+		int flags = JsonSchemaNumeric.flag(builder.required, JsonSchemaNumeric.REQUIRED)
+				| JsonSchemaNumeric.flag(builder.readOnly != null, JsonSchemaNumeric.READ_ONLY)
+				| JsonSchemaNumeric.flag(builder.writeOnly != null, JsonSchemaNumeric.WRITE_ONLY)
+				| JsonSchemaNumeric.packKind(builder.multipleOfKind, JsonSchemaNumeric.MULTIPLE_OF)
+				| JsonSchemaNumeric.packKind(builder.minimumKind, JsonSchemaNumeric.MINIMUM)
+				| JsonSchemaNumeric.packKind(builder.exclusiveMinimumKind, JsonSchemaNumeric.EXCLUSIVE_MINIMUM)
+				| JsonSchemaNumeric.packKind(builder.maximumKind, JsonSchemaNumeric.MAXIMUM)
+				| JsonSchemaNumeric.packKind(builder.exclusiveMaximumKind, JsonSchemaNumeric.EXCLUSIVE_MAXIMUM);
+
+		this.flags = flags;
+		this.values = JsonSchemaNumeric.values(flags, builder.multipleOfBits, builder.minimumBits,
+				builder.exclusiveMinimumBits, builder.maximumBits, builder.exclusiveMaximumBits);
+		this.decimals = JsonSchemaNumeric.decimals(builder.minimumDecimal, builder.exclusiveMinimumDecimal,
+				builder.maximumDecimal, builder.exclusiveMaximumDecimal);
 	}
 
 	/**
@@ -65,7 +72,7 @@ public class JsonSchemaInteger extends AbstractJsonSchema {
 
 	JSONObject schemaJson() {
 		JSONObject json = new JSONObject();
-		json.put("type", type.getType());
+		json.put("type", TYPE.getType());
 
 		if (this.title != null) {
 			json.put("title", this.title);
@@ -75,39 +82,21 @@ public class JsonSchemaInteger extends AbstractJsonSchema {
 			json.put("description", this.description);
 		}
 
-		if (this.readOnly != null) {
-			json.put("readOnly", this.readOnly.booleanValue());
-		}
-
-		if (this.writeOnly != null) {
-			json.put("writeOnly", this.writeOnly.booleanValue());
-		}
-
-		if (this.multipleOf != null) {
-			json.put("multipleOf", this.multipleOf.intValue());
-		}
-
-		if (this.minimum != null) {
-			json.put("minimum", this.minimum.intValue());
-		}
-
-		if (this.exclusiveMinimum != null) {
-			json.put("exclusiveMinimum", this.exclusiveMinimum.intValue());
+		if ((this.flags & JsonSchemaNumeric.READ_ONLY) != 0) {
+			json.put("readOnly", true);
 		}
 
-		if (this.maximum != null) {
-			json.put("maximum", this.maximum.intValue());
+		if ((this.flags & JsonSchemaNumeric.WRITE_ONLY) != 0) {
+			json.put("writeOnly", true);
 		}
 
-		if (this.exclusiveMaximum != null) {
-			json.put("exclusiveMaximum", this.exclusiveMaximum.intValue());
-		}
+		JsonSchemaNumeric.putAll(json, this.flags, this.values, this.decimals);
 
 		return json;
 	}
 
 	boolean isRequired() {
-		return this.required;
+		return (this.flags & JsonSchemaNumeric.REQUIRED) != 0;
 	}
 
 	public static class Builder extends AbstractJsonSchemaBuilder<Builder, JsonSchemaInteger> {
@@ -122,15 +111,33 @@ public class JsonSchemaInteger extends AbstractJsonSchema {
 
 		private Boolean writeOnly;
 
-		private Integer multipleOf;
+		private byte multipleOfKind = JsonSchemaNumeric.NONE;
+
+		private long multipleOfBits;
+
+		private byte minimumKind = JsonSchemaNumeric.NONE;
+
+		private long minimumBits;
+
+		private BigDecimal minimumDecimal;
 
-		private Integer minimum;
+		private byte exclusiveMinimumKind = JsonSchemaNumeric.NONE;
 
-		private Integer exclusiveMinimum;
+		private long exclusiveMinimumBits;
 
-		private Integer maximum;
+		private BigDecimal exclusiveMinimumDecimal;
 
-		private Integer exclusiveMaximum;
+		private byte maximumKind = JsonSchemaNumeric.NONE;
+
+		private long maximumBits;
+
+		private BigDecimal maximumDecimal;
+
+		private byte exclusiveMaximumKind = JsonSchemaNumeric.NONE;
+
+		private long exclusiveMaximumBits;
+
+		private BigDecimal exclusiveMaximumDecimal;
 
 		private Builder() {
 		}
@@ -233,7 +240,8 @@ public class JsonSchemaInteger extends AbstractJsonSchema {
 					throw new IllegalArgumentException("multipleOf must be positive");
 				}
 
-				this.multipleOf = multipleOf;
+				this.multipleOfKind = JsonSchemaNumeric.LONG;
+				this.multipleOfBits = multipleOf;
 				return this;
 			}
 		}
@@ -246,7 +254,43 @@ public class JsonSchemaInteger extends AbstractJsonSchema {
 		 */
 		public Builder withMinimum(int minimum) {
 			synchronized (this) {
-				this.minimum = minimum;
+				this.minimumKind = JsonSchemaNumeric.LONG;
+				this.minimumBits = minimum;
+				this.minimumDecimal = null;
+				return this;
+			}
+		}
+
+		/**
+		 * The minimum
+		 * 
+		 * @param minimum
+		 * @return
+		 */
+		public Builder withMinimum(long minimum) {
+			synchronized (this) {
+				this.minimumKind = JsonSchemaNumeric.LONG;
+				this.minimumBits = minimum;
+				this.minimumDecimal = null;
+				return this;
+			}
+		}
+
+		/**
+		 * The minimum
+		 * 
+		 * @param minimum
+		 * @return
+		 */
+		public Builder withMinimum(BigDecimal minimum) {
+			synchronized (this) {
+				if (minimum == null) {
+					throw new IllegalArgumentException("minimum must not be null");
+				}
+
+				this.minimumKind = JsonSchemaNumeric.DECIMAL;
+				this.minimumBits = 0L;
+				this.minimumDecimal = minimum;
 				return this;
 			}
 		}
@@ -259,7 +303,43 @@ public class JsonSchemaInteger extends AbstractJsonSchema {
 		 */
 		public Builder withExclusiveMinimum(int exclusiveMinimum) {
 			synchronized (this) {
-				this.exclusiveMinimum = exclusiveMinimum;
+				this.exclusiveMinimumKind = JsonSchemaNumeric.LONG;
+				this.exclusiveMinimumBits = exclusiveMinimum;
+				this.exclusiveMinimumDecimal = null;
+				return this;
+			}
+		}
+
+		/**
+		 * The exclusive minimum
+		 * 
+		 * @param exclusiveMinimum
+		 * @return
+		 */
+		public Builder withExclusiveMinimum(long exclusiveMinimum) {
+			synchronized (this) {
+				this.exclusiveMinimumKind = JsonSchemaNumeric.LONG;
+				this.exclusiveMinimumBits = exclusiveMinimum;
+				this.exclusiveMinimumDecimal = null;
+				return this;
+			}
+		}
+
+		/**
+		 * The exclusive minimum
+		 * 
+		 * @param exclusiveMinimum
+		 * @return
+		 */
+		public Builder withExclusiveMinimum(BigDecimal exclusiveMinimum) {
+			synchronized (this) {
+				if (exclusiveMinimum == null) {
+					throw new IllegalArgumentException("exclusiveMinimum must not be null");
+				}
+
+				this.exclusiveMinimumKind = JsonSchemaNumeric.DECIMAL;
+				this.exclusiveMinimumBits = 0L;
+				this.exclusiveMinimumDecimal = exclusiveMinimum;
 				return this;
 			}
 		}
@@ -272,7 +352,43 @@ public class JsonSchemaInteger extends AbstractJsonSchema {
 		 */
 		public Builder withMaximum(int maximum) {
 			synchronized (this) {
-				this.maximum = maximum;
+				this.maximumKind = JsonSchemaNumeric.LONG;
+				this.maximumBits = maximum;
+				this.maximumDecimal = null;
+				return this;
+			}
+		}
+
+		/**
+		 * The maximum
+		 * 
+		 * @param maximum
+		 * @return
+		 */
+		public Builder withMaximum(long maximum) {
+			synchronized (this) {
+				this.maximumKind = JsonSchemaNumeric.LONG;
+				this.maximumBits = maximum;
+				this.maximumDecimal = null;
+				return this;
+			}
+		}
+
+		/**
+		 * The maximum
+		 * 
+		 * @param maximum
+		 * @return
+		 */
+		public Builder withMaximum(BigDecimal maximum) {
+			synchronized (this) {
+				if (maximum == null) {
+					throw new IllegalArgumentException("maximum must not be null");
+				}
+
+				this.maximumKind = JsonSchemaNumeric.DECIMAL;
+				this.maximumBits = 0L;
+				this.maximumDecimal = maximum;
 				return this;
 			}
 		}
@@ -285,13 +401,61 @@ public class JsonSchemaInteger extends AbstractJsonSchema {
 		 */
 		public Builder withExclusiveMaximum(int exclusiveMaximum) {
 			synchronized (this) {
-				this.exclusiveMaximum = exclusiveMaximum;
+				this.exclusiveMaximumKind = JsonSchemaNumeric.LONG;
+				this.exclusiveMaximumBits = exclusiveMaximum;
+				this.exclusiveMaximumDecimal = null;
+				return this;
+			}
+		}
+
+		/**
+		 * The exclusive maximum
+		 * 
+		 * @param exclusiveMaximum
+		 * @return
+		 */
+		public Builder withExclusiveMaximum(long exclusiveMaximum) {
+			synchronized (this) {
+				this.exclusiveMaximumKind = JsonSchemaNumeric.LONG;
+				this.exclusiveMaximumBits = exclusiveMaximum;
+				this.exclusiveMaximumDecimal = null;
+				return this;
+			}
+		}
+
+		/**
+		 * The exclusive maximum
+		 * 
+		 * @param exclusiveMaximum
+		 * @return
+		 */
+		public Builder withExclusiveMaximum(BigDecimal exclusiveMaximum) {
+			synchronized (this) {
+				if (exclusiveMaximum == null) {
+					throw new IllegalArgumentException("exclusiveMaximum must not be null");
+				}
+
+				this.exclusiveMaximumKind = JsonSchemaNumeric.DECIMAL;
+				this.exclusiveMaximumBits = 0L;
+				this.exclusiveMaximumDecimal = exclusiveMaximum;
 				return this;
 			}
 		}
 
 		public JsonSchemaInteger build() {
 			synchronized (this) {
+				JsonSchemaInterval interval = JsonSchemaInterval.of(
+						JsonSchemaNumeric.decimal(this.minimumKind, this.minimumBits, this.minimumDecimal),
+						JsonSchemaNumeric.decimal(this.exclusiveMinimumKind, this.exclusiveMinimumBits,
+								this.exclusiveMinimumDecimal),
+						JsonSchemaNumeric.decimal(this.maximumKind, this.maximumBits, this.maximumDecimal),
+						JsonSchemaNumeric.decimal(this.exclusiveMaximumKind, this.exclusiveMaximumBits,
+								this.exclusiveMaximumDecimal));
+
+				if (interval.isEmptyForIntegers()) {
+					throw new IllegalArgumentException("minimum and maximum must allow at least one value");
+				}
+
 				return new JsonSchemaInteger(this);
 			}
 		}
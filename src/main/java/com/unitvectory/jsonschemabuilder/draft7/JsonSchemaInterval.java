@@ -0,0 +1,108 @@
+/*
+ * Copyright 2020 Jared Hatfield, UnitVectorY Labs
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.unitvectory.jsonschemabuilder.draft7;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * The range allowed by the minimum, exclusiveMinimum, maximum and
+ * exclusiveMaximum keywords, normalized to a single lower and upper bound that
+ * are each either open or closed. A null bound is unbounded.
+ */
+final class JsonSchemaInterval {
+
+	private final BigDecimal lower;
+
+	private final boolean lowerOpen;
+
+	private final BigDecimal upper;
+
+	private final boolean upperOpen;
+
+	private JsonSchemaInterval(BigDecimal lower, boolean lowerOpen, BigDecimal upper, boolean upperOpen) {
+		this.lower = lower;
+		this.lowerOpen = lowerOpen;
+		this.upper = upper;
+		this.upperOpen = upperOpen;
+	}
+
+	static JsonSchemaInterval of(BigDecimal minimum, BigDecimal exclusiveMinimum, BigDecimal maximum,
+			BigDecimal exclusiveMaximum) {
+
+		// When both an inclusive and an exclusive bound are set the tighter one
+		// applies, and the exclusive one wins a tie
+		BigDecimal lower = minimum;
+		boolean lowerOpen = false;
+		if (exclusiveMinimum != null && (lower == null || exclusiveMinimum.compareTo(lower) >= 0)) {
+			lower = exclusiveMinimum;
+			lowerOpen = true;
+		}
+
+		BigDecimal upper = maximum;
+		boolean upperOpen = false;
+		if (exclusiveMaximum != null && (upper == null || exclusiveMaximum.compareTo(upper) <= 0)) {
+			upper = exclusiveMaximum;
+			upperOpen = true;
+		}
+
+		return new JsonSchemaInterval(lower, lowerOpen, upper, upperOpen);
+	}
+
+	/**
+	 * Returns true if no number lies within the interval.
+	 */
+	boolean isEmpty() {
+		if (this.lower == null || this.upper == null) {
+			return false;
+		}
+
+		int compare = this.lower.compareTo(this.upper);
+		return compare > 0 || (compare == 0 && (this.lowerOpen || this.upperOpen));
+	}
+
+	/**
+	 * Returns true if no integer lies within the interval.
+	 */
+	boolean isEmptyForIntegers() {
+		if (this.lower == null || this.upper == null) {
+			return false;
+		}
+
+		// Any interval wider than one holds an integer; the width is rounded rather
+		// than computed exactly so that bounds with large exponents stay cheap
+		if (this.upper.subtract(this.lower, MathContext.DECIMAL64).compareTo(BigDecimal.ONE) > 0) {
+			return false;
+		}
+
+		// The integers nearest to each bound on the inside, each open bound then
+		// excluding one more
+		BigDecimal lowest = round(this.lower, this.lowerOpen ? RoundingMode.FLOOR : RoundingMode.CEILING);
+		BigDecimal highest = round(this.upper, this.upperOpen ? RoundingMode.CEILING : RoundingMode.FLOOR);
+		int excluded = (this.lowerOpen ? 1 : 0) + (this.upperOpen ? 1 : 0);
+
+		return highest.subtract(lowest, MathContext.DECIMAL64).compareTo(BigDecimal.valueOf(excluded)) < 0;
+	}
+
+	/**
+	 * Rounds the value to an integer, leaving a value without a fractional part
+	 * untouched so that a large exponent is never expanded.
+	 */
+	private static BigDecimal round(BigDecimal value, RoundingMode mode) {
+		return value.scale() > 0 ? value.setScale(0, mode) : value;
+	}
+}
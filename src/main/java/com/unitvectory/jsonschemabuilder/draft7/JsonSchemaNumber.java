@@ -15,58 +15,50 @@
  */
 package com.unitvectory.jsonschemabuilder.draft7;
 
+import java.math.BigDecimal;
+
 import org.json.JSONObject;
 
 public class JsonSchemaNumber extends AbstractJsonSchema {
 
-	private final JsonSchemaType type = JsonSchemaType.NUMBER;
+	private static final JsonSchemaType TYPE = JsonSchemaType.NUMBER;
 
-	private final boolean required;
+	/**
+	 * The required, readOnly and writeOnly keywords and the kind of each numeric
+	 * keyword, packed as described by {@link JsonSchemaNumeric}.
+	 */
+	private final int flags;
 
 	private final String title;
 
 	private final String description;
 
-	private final Boolean readOnly;
-
-	private final Boolean writeOnly;
-
-	private final Integer multipleOfI;
-
-	private final Double multipleOfD;
-
-	private final Integer minimumI;
-
-	private final Double minimumD;
-
-	private final Integer exclusiveMinimumI;
-
-	private final Double exclusiveMinimumD;
-
-	private final Integer maximumI;
-
-	private final Double maximumD;
-
-	private final Integer exclusiveMaximumI;
+	/**
+	 * The LONG and DOUBLE numeric keyword values that are set, in keyword order,
+	 * or null if there are none.
+	 */
+	private final long[] values;
 
-	private Double exclusiveMaximumD;
+	private final BigDecimal[] decimals;
 
 	private JsonSchemaNumber(Builder builder) {
-		this.required = builder.required;
 		this.title = builder.title;
 		this.description = builder.description;
-		this.readOnly = builder.readOnly;
-		this.writeOnly = builder.writeOnly;
-		this.multipleOfI = builder.multipleOfI;
-		this.multipleOfD = builder.multipleOfD;
-		this.minimumI = builder.minimumI;
-		this.minimumD = builder.minimumD;
-		this.exclusiveMinimumI = builder.exclusiveMinimumI;
-		this.exclusiveMinimumD = builder.exclusiveMinimumD;
-		this.maximumI = builder.maximumI;
-		this.maximumD = builder.maximumD;
-		this.exclusiveMaximumI = builder.exclusiveMaximumI;
-		this.exclusiveMaximumD = builder.exclusiveMaximumD;
+
+		int flags = JsonSchemaNumeric.flag(builder.required, JsonSchemaNumeric.REQUIRED)
+				| JsonSchemaNumeric.flag(builder.readOnly != null, JsonSchemaNumeric.READ_ONLY)
+				| JsonSchemaNumeric.flag(builder.writeOnly != null, JsonSchemaNumeric.WRITE_ONLY)
+				| JsonSchemaNumeric.packKind(builder.multipleOfKind, JsonSchemaNumeric.MULTIPLE_OF)
+				| JsonSchemaNumeric.packKind(builder.minimumKind, JsonSchemaNumeric.MINIMUM)
+				| JsonSchemaNumeric.packKind(builder.exclusiveMinimumKind, JsonSchemaNumeric.EXCLUSIVE_MINIMUM)
+				| JsonSchemaNumeric.packKind(builder.maximumKind, JsonSchemaNumeric.MAXIMUM)
+				| JsonSchemaNumeric.packKind(builder.exclusiveMaximumKind, JsonSchemaNumeric.EXCLUSIVE_MAXIMUM);
+
+		this.flags = flags;
+		this.values = JsonSchemaNumeric.values(flags, builder.multipleOfBits, builder.minimumBits,
+				builder.exclusiveMinimumBits, builder.maximumBits, builder.exclusiveMaximumBits);
+		this.decimals = JsonSchemaNumeric.decimals(builder.minimumDecimal, builder.exclusiveMinimumDecimal,
+				builder.maximumDecimal, builder.exclusiveMaximumDecimal);
 	}
 
 	/**
@@ -81,7 +73,7 @@ public class JsonSchemaNumber extends AbstractJsonSchema {
 
 	JSONObject schemaJson() {
 		JSONObject json = new JSONObject();
-		json.put("type", type.getType());
+		json.put("type", TYPE.getType());
 
 		if (this.title != null) {
 			json.put("title", this.title);
@@ -91,49 +83,21 @@ public class JsonSchemaNumber extends AbstractJsonSchema {
 			json.put("description", this.description);
 		}
 
-		if (this.readOnly != null) {
-			json.put("readOnly", this.readOnly.booleanValue());
-		}
-
-		if (this.writeOnly != null) {
-			json.put("writeOnly", this.writeOnly.booleanValue());
+		if ((this.flags & JsonSchemaNumeric.READ_ONLY) != 0) {
+			json.put("readOnly", true);
 		}
 
-		if (this.multipleOfI != null) {
-			json.put("multipleOf", this.multipleOfI.intValue());
-		} else if (this.multipleOfD != null) {
-			json.put("multipleOf", this.multipleOfD.doubleValue());
+		if ((this.flags & JsonSchemaNumeric.WRITE_ONLY) != 0) {
+			json.put("writeOnly", true);
 		}
 
-		if (this.minimumI != null) {
-			json.put("minimum", this.minimumI.intValue());
-		} else if (this.minimumD != null) {
-			json.put("minimum", this.minimumD.doubleValue());
-		}
-
-		if (this.exclusiveMinimumI != null) {
-			json.put("exclusiveMinimum", this.exclusiveMinimumI.intValue());
-		} else if (this.exclusiveMinimumD != null) {
-			json.put("exclusiveMinimum", this.exclusiveMinimumD.doubleValue());
-		}
-
-		if (this.maximumI != null) {
-			json.put("maximum", this.maximumI.intValue());
-		} else if (this.maximumD != null) {
-			json.put("maximum", this.maximumD.doubleValue());
-		}
-
-		if (this.exclusiveMaximumI != null) {
-			json.put("exclusiveMaximum", this.exclusiveMaximumI.intValue());
-		} else if (this.exclusiveMaximumD != null) {
-			json.put("exclusiveMaximum", this.exclusiveMaximumD.doubleValue());
-		}
+		JsonSchemaNumeric.putAll(json, this.flags, this.values, this.decimals);
 
 		return json;
 	}
 
 	boolean isRequired() {
-		return this.required;
+		return (this.flags & JsonSchemaNumeric.REQUIRED) != 0;
 	}
 
 	public static class Builder extends AbstractJsonSchemaBuilder<Builder, JsonSchemaNumber> {
@@ -148,25 +112,33 @@ public class JsonSchemaNumber extends AbstractJsonSchema {
 
 		private Boolean writeOnly;
 
-		private Integer multipleOfI;
+		private byte multipleOfKind = JsonSchemaNumeric.NONE;
+
+		private long multipleOfBits;
 
-		private Double multipleOfD;
+		private byte minimumKind = JsonSchemaNumeric.NONE;
 
-		private Integer minimumI;
+		private long minimumBits;
 
-		private Double minimumD;
+		private BigDecimal minimumDecimal;
 
-		private Integer exclusiveMinimumI;
+		private byte exclusiveMinimumKind = JsonSchemaNumeric.NONE;
 
-		private Double exclusiveMinimumD;
+		private long exclusiveMinimumBits;
 
-		private Integer maximumI;
+		private BigDecimal exclusiveMinimumDecimal;
 
-		private Double maximumD;
+		private byte maximumKind = JsonSchemaNumeric.NONE;
 
-		private Integer exclusiveMaximumI;
+		private long maximumBits;
 
-		private Double exclusiveMaximumD;
+		private BigDecimal maximumDecimal;
+
+		private byte exclusiveMaximumKind = JsonSchemaNumeric.NONE;
+
+		private long exclusiveMaximumBits;
+
+		private BigDecimal exclusiveMaximumDecimal;
 
 		private Builder() {
 		}
@@ -269,8 +241,8 @@ public class JsonSchemaNumber extends AbstractJsonSchema {
 					throw new IllegalArgumentException("multipleOf must be positive");
 				}
 
-				this.multipleOfI = multipleOf;
-				this.multipleOfD = null;
+				this.multipleOfKind = JsonSchemaNumeric.LONG;
+				this.multipleOfBits = multipleOf;
 				return this;
 			}
 		}
@@ -288,8 +260,8 @@ public class JsonSchemaNumber extends AbstractJsonSchema {
 					throw new IllegalArgumentException("multipleOf must be positive");
 				}
 
-				this.multipleOfD = multipleOf;
-				this.multipleOfI = null;
+				this.multipleOfKind = JsonSchemaNumeric.DOUBLE;
+				this.multipleOfBits = JsonSchemaNumeric.bits(multipleOf);
 				return this;
 			}
 		}
@@ -302,8 +274,9 @@ public class JsonSchemaNumber extends AbstractJsonSchema {
 		 */
 		public Builder withMinimum(int minimum) {
 			synchronized (this) {
-				this.minimumI = minimum;
-				this.minimumD = null;
+				this.minimumKind = JsonSchemaNumeric.LONG;
+				this.minimumBits = minimum;
+				this.minimumDecimal = null;
 				return this;
 			}
 		}
@@ -316,8 +289,47 @@ public class JsonSchemaNumber extends AbstractJsonSchema {
 		 */
 		public Builder withMinimum(double minimum) {
 			synchronized (this) {
-				this.minimumD = minimum;
-				this.minimumI = null;
+				if (Double.isNaN(minimum) || Double.isInfinite(minimum)) {
+					throw new IllegalArgumentException("minimum must be finite");
+				}
+
+				this.minimumKind = JsonSchemaNumeric.DOUBLE;
+				this.minimumBits = JsonSchemaNumeric.bits(minimum);
+				this.minimumDecimal = null;
+				return this;
+			}
+		}
+
+		/**
+		 * The minimum
+		 * 
+		 * @param minimum
+		 * @return
+		 */
+		public Builder withMinimum(long minimum) {
+			synchronized (this) {
+				this.minimumKind = JsonSchemaNumeric.LONG;
+				this.minimumBits = minimum;
+				this.minimumDecimal = null;
+				return this;
+			}
+		}
+
+		/**
+		 * The minimum
+		 * 
+		 * @param minimum
+		 * @return
+		 */
+		public Builder withMinimum(BigDecimal minimum) {
+			synchronized (this) {
+				if (minimum == null) {
+					throw new IllegalArgumentException("minimum must not be null");
+				}
+
+				this.minimumKind = JsonSchemaNumeric.DECIMAL;
+				this.minimumBits = 0L;
+				this.minimumDecimal = minimum;
 				return this;
 			}
 		}
@@ -330,8 +342,9 @@ public class JsonSchemaNumber extends AbstractJsonSchema {
 		 */
 		public Builder withExclusiveMinimum(int exclusiveMinimum) {
 			synchronized (this) {
-				this.exclusiveMinimumI = exclusiveMinimum;
-				this.exclusiveMinimumD = null;
+				this.exclusiveMinimumKind = JsonSchemaNumeric.LONG;
+				this.exclusiveMinimumBits = exclusiveMinimum;
+				this.exclusiveMinimumDecimal = null;
 				return this;
 			}
 		}
@@ -344,8 +357,47 @@ public class JsonSchemaNumber extends AbstractJsonSchema {
 		 */
 		public Builder withExclusiveMinimum(double exclusiveMinimum) {
 			synchronized (this) {
-				this.exclusiveMinimumD = exclusiveMinimum;
-				this.exclusiveMinimumI = null;
+				if (Double.isNaN(exclusiveMinimum) || Double.isInfinite(exclusiveMinimum)) {
+					throw new IllegalArgumentException("exclusiveMinimum must be finite");
+				}
+
+				this.exclusiveMinimumKind = JsonSchemaNumeric.DOUBLE;
+				this.exclusiveMinimumBits = JsonSchemaNumeric.bits(exclusiveMinimum);
+				this.exclusiveMinimumDecimal = null;
+				return this;
+			}
+		}
+
+		/**
+		 * The exclusive minimum
+		 * 
+		 * @param exclusiveMinimum
+		 * @return
+		 */
+		public Builder withExclusiveMinimum(long exclusiveMinimum) {
+			synchronized (this) {
+				this.exclusiveMinimumKind = JsonSchemaNumeric.LONG;
+				this.exclusiveMinimumBits = exclusiveMinimum;
+				this.exclusiveMinimumDecimal = null;
+				return this;
+			}
+		}
+
+		/**
+		 * The exclusive minimum
+		 * 
+		 * @param exclusiveMinimum
+		 * @return
+		 */
+		public Builder withExclusiveMinimum(BigDecimal exclusiveMinimum) {
+			synchronized (this) {
+				if (exclusiveMinimum == null) {
+					throw new IllegalArgumentException("exclusiveMinimum must not be null");
+				}
+
+				this.exclusiveMinimumKind = JsonSchemaNumeric.DECIMAL;
+				this.exclusiveMinimumBits = 0L;
+				this.exclusiveMinimumDecimal = exclusiveMinimum;
 				return this;
 			}
 		}
@@ -358,8 +410,9 @@ public class JsonSchemaNumber extends AbstractJsonSchema {
 		 */
 		public Builder withMaximum(int maximum) {
 			synchronized (this) {
-				this.maximumI = maximum;
-				this.maximumD = null;
+				this.maximumKind = JsonSchemaNumeric.LONG;
+				this.maximumBits = maximum;
+				this.maximumDecimal = null;
 				return this;
 			}
 		}
@@ -372,8 +425,47 @@ public class JsonSchemaNumber extends AbstractJsonSchema {
 		 */
 		public Builder withMaximum(double maximum) {
 			synchronized (this) {
-				this.maximumD = maximum;
-				this.maximumI = null;
+				if (Double.isNaN(maximum) || Double.isInfinite(maximum)) {
+					throw new IllegalArgumentException("maximum must be finite");
+				}
+
+				this.maximumKind = JsonSchemaNumeric.DOUBLE;
+				this.maximumBits = JsonSchemaNumeric.bits(maximum);
+				this.maximumDecimal = null;
+				return this;
+			}
+		}
+
+		/**
+		 * The maximum
+		 * 
+		 * @param maximum
+		 * @return
+		 */
+		public Builder withMaximum(long maximum) {
+			synchronized (this) {
+				this.maximumKind = JsonSchemaNumeric.LONG;
+				this.maximumBits = maximum;
+				this.maximumDecimal = null;
+				return this;
+			}
+		}
+
+		/**
+		 * The maximum
+		 * 
+		 * @param maximum
+		 * @return
+		 */
+		public Builder withMaximum(BigDecimal maximum) {
+			synchronized (this) {
+				if (maximum == null) {
+					throw new IllegalArgumentException("maximum must not be null");
+				}
+
+				this.maximumKind = JsonSchemaNumeric.DECIMAL;
+				this.maximumBits = 0L;
+				this.maximumDecimal = maximum;
 				return this;
 			}
 		}
@@ -386,8 +478,9 @@ public class JsonSchemaNumber extends AbstractJsonSchema {
 		 */
 		public Builder withExclusiveMaximum(int exclusiveMaximum) {
 			synchronized (this) {
-				this.exclusiveMaximumI = exclusiveMaximum;
-				this.exclusiveMaximumD = null;
+				this.exclusiveMaximumKind = JsonSchemaNumeric.LONG;
+				this.exclusiveMaximumBits = exclusiveMaximum;
+				this.exclusiveMaximumDecimal = null;
 				return this;
 			}
 		}
@@ -400,14 +493,65 @@ public class JsonSchemaNumber extends AbstractJsonSchema {
 		 */
 		public Builder withExclusiveMaximum(double exclusiveMaximum) {
 			synchronized (this) {
-				this.exclusiveMaximumD = exclusiveMaximum;
-				this.exclusiveMaximumI = null;
+				if (Double.isNaN(exclusiveMaximum) || Double.isInfinite(exclusiveMaximum)) {
+					throw new IllegalArgumentException("exclusiveMaximum must be finite");
+				}
+
+				this.exclusiveMaximumKind = JsonSchemaNumeric.DOUBLE;
+				this.exclusiveMaximumBits = JsonSchemaNumeric.bits(exclusiveMaximum);
+				this.exclusiveMaximumDecimal = null;
+				return this;
+			}
+		}
+
+		/**
+		 * The exclusive maximum
+		 * 
+		 * @param exclusiveMaximum
+		 * @return
+		 */
+		public Builder withExclusiveMaximum(long exclusiveMaximum) {
+			synchronized (this) {
+				this.exclusiveMaximumKind = JsonSchemaNumeric.LONG;
+				this.exclusiveMaximumBits = exclusiveMaximum;
+				this.exclusiveMaximumDecimal = null;
+				return this;
+			}
+		}
+
+		/**
+		 * The exclusive maximum
+		 * 
+		 * @param exclusiveMaximum
+		 * @return
+		 */
+		public Builder withExclusiveMaximum(BigDecimal exclusiveMaximum) {
+			synchronized (this) {
+				if (exclusiveMaximum == null) {
+					throw new IllegalArgumentException("exclusiveMaximum must not be null");
+				}
+
+				this.exclusiveMaximumKind = JsonSchemaNumeric.DECIMAL;
+				this.exclusiveMaximumBits = 0L;
+				this.exclusiveMaximumDecimal = exclusiveMaximum;
 				return this;
 			}
 		}
 
 		public JsonSchemaNumber build() {
 			synchronized (this) {
+				JsonSchemaInterval interval = JsonSchemaInterval.of(
+						JsonSchemaNumeric.decimal(this.minimumKind, this.minimumBits, this.minimumDecimal),
+						JsonSchemaNumeric.decimal(this.exclusiveMinimumKind, this.exclusiveMinimumBits,
+								this.exclusiveMinimumDecimal),
+						JsonSchemaNumeric.decimal(this.maximumKind, this.maximumBits, this.maximumDecimal),
+						JsonSchemaNumeric.decimal(this.exclusiveMaximumKind, this.exclusiveMaximumBits,
+								this.exclusiveMaximumDecimal));
+
+				if (interval.isEmpty()) {
+					throw new IllegalArgumentException("minimum and maximum must allow at least one value");
+				}
+
 				return new JsonSchemaNumber(this);
 			}
 		}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2020 Jared Hatfield, UnitVectorY Labs
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.unitvectory.jsonschemabuilder.draft7;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import org.json.JSONObject;
+
+/**
+ * Numeric keyword values stored as a kind tag and the raw bits of a long,
+ * instead of as boxed numbers.
+ * 
+ * A LONG value is the long itself and a DOUBLE value is the raw bits of the
+ * double. A DECIMAL value is kept as a separate BigDecimal, so only values that
+ * cannot be represented exactly otherwise need an object at all.
+ * 
+ * The numeric schema nodes pack their boolean keywords and the kind of each
+ * numeric keyword into a single int of flags, two bits per kind at the shifts
+ * defined here. The LONG and DOUBLE values that are set are kept in keyword
+ * order in one long array, so a node without numeric keywords holds no values.
+ */
+final class JsonSchemaNumeric {
+
+	static final byte NONE = 0;
+
+	static final byte LONG = 1;
+
+	static final byte DOUBLE = 2;
+
+	static final byte DECIMAL = 3;
+
+	static final int REQUIRED = 1;
+
+	static final int READ_ONLY = 1 << 1;
+
+	static final int WRITE_ONLY = 1 << 2;
+
+	static final int MULTIPLE_OF = 3;
+
+	static final int MINIMUM = 5;
+
+	static final int EXCLUSIVE_MINIMUM = 7;
+
+	static final int MAXIMUM = 9;
+
+	static final int EXCLUSIVE_MAXIMUM = 11;
+
+	private static final int[] SHIFTS = { MULTIPLE_OF, MINIMUM, EXCLUSIVE_MINIMUM, MAXIMUM, EXCLUSIVE_MAXIMUM };
+
+	private static final String[] KEYS = { "multipleOf", "minimum", "exclusiveMinimum", "maximum",
+			"exclusiveMaximum" };
+
+	private JsonSchemaNumeric() {
+	}
+
+	static long bits(double value) {
+		return Double.doubleToRawLongBits(value);
+	}
+
+	static int flag(boolean set, int flag) {
+		return set ? flag : 0;
+	}
+
+	/**
+	 * Returns the kind moved to the given shift, ready to be combined into flags.
+	 */
+	static int packKind(byte kind, int shift) {
+		return kind << shift;
+	}
+
+	/**
+	 * Returns the kind stored in flags at the given shift.
+	 */
+	static byte kindAt(int flags, int shift) {
+		return (byte) ((flags >>> shift) & 3);
+	}
+
+	/**
+	 * Returns the decimal bounds as an array indexed by {@link #index(int)}, or
+	 * null if none of them is set so that nodes without decimal bounds carry no
+	 * array at all.
+	 */
+	static BigDecimal[] decimals(BigDecimal minimum, BigDecimal exclusiveMinimum, BigDecimal maximum,
+			BigDecimal exclusiveMaximum) {
+		if (minimum == null && exclusiveMinimum == null && maximum == null && exclusiveMaximum == null) {
+			return null;
+		}
+
+		return new BigDecimal[] { minimum, exclusiveMinimum, maximum, exclusiveMaximum };
+	}
+
+	/**
+	 * Returns the position of a bound in the array from
+	 * {@link #decimals(BigDecimal, BigDecimal, BigDecimal, BigDecimal)}.
+	 */
+	static int index(int shift) {
+		return (shift - MINIMUM) / 2;
+	}
+
+	/**
+	 * Returns the LONG and DOUBLE values set in flags, in keyword order, or null if
+	 * none of them is set.
+	 */
+	static long[] values(int flags, long multipleOf, long minimum, long exclusiveMinimum, long maximum,
+			long exclusiveMaximum) {
+		long[] bits = { multipleOf, minimum, exclusiveMinimum, maximum, exclusiveMaximum };
+		long[] values = new long[bits.length];
+		int count = 0;
+		for (int i = 0; i < SHIFTS.length; i++) {
+			byte kind = kindAt(flags, SHIFTS[i]);
+			if (kind == LONG || kind == DOUBLE) {
+				values[count++] = bits[i];
+			}
+		}
+
+		return count == 0 ? null : Arrays.copyOf(values, count);
+	}
+
+	/**
+	 * Writes every numeric keyword set in flags, taking values from the arrays
+	 * built by {@link #values(int, long, long, long, long, long)} and
+	 * {@link #decimals(BigDecimal, BigDecimal, BigDecimal, BigDecimal)}.
+	 */
+	static void putAll(JSONObject json, int flags, long[] values, BigDecimal[] decimals) {
+		int next = 0;
+		for (int i = 0; i < SHIFTS.length; i++) {
+			byte kind = kindAt(flags, SHIFTS[i]);
+			if (kind == LONG || kind == DOUBLE) {
+				put(json, KEYS[i], kind, values[next++], null);
+			} else if (kind == DECIMAL) {
+				put(json, KEYS[i], kind, 0L, decimals[index(SHIFTS[i])]);
+			}
+		}
+	}
+
+	/**
+	 * Returns the value as it is rendered in the schema, or null if no value is
+	 * set. A double is taken as its shortest decimal form, as written by org.json,
+	 * rather than its exact binary value.
+	 */
+	static BigDecimal decimal(byte kind, long bits, BigDecimal decimal) {
+		switch (kind) {
+		case LONG:
+			return BigDecimal.valueOf(bits);
+		case DOUBLE:
+			return BigDecimal.valueOf(Double.longBitsToDouble(bits));
+		case DECIMAL:
+			return decimal;
+		default:
+			return null;
+		}
+	}
+
+	static void put(JSONObject json, String key, byte kind, long bits, BigDecimal decimal) {
+		switch (kind) {
+		case LONG:
+			json.put(key, bits);
+			break;
+		case DOUBLE:
+			json.put(key, Double.longBitsToDouble(bits));
+			break;
+		case DECIMAL:
+			json.put(key, decimal);
+			break;
+		default:
+			break;
+		}
+	}
+}
@@ -233,6 +233,8 @@ public class JsonSchemaObject extends AbstractJsonSchema {
 
 		private String propertyNames;
 
+		private boolean strictPatterns;
+
 		private final Map<String, Set<String>> propertyDependencies;
 
 		private final Map<String, JsonSchemaObject> schemaDependencies;
@@ -396,6 +398,21 @@ public class JsonSchemaObject extends AbstractJsonSchema {
 			}
 		}
 
+		/**
+		 * In strict mode the pattern properties and property names are analyzed when
+		 * the schema is built and a pattern that can backtrack for an exponential
+		 * amount of time is rejected. The analysis errs on the safe side, so some
+		 * linear patterns such as (a|ab)* are rejected as well.
+		 * 
+		 * @return
+		 */
+		public Builder withStrictPatterns() {
+			synchronized (this) {
+				this.strictPatterns = true;
+				return this;
+			}
+		}
+
 		/**
 		 * 
 		 * @param propertyName
@@ -514,6 +531,19 @@ public class JsonSchemaObject extends AbstractJsonSchema {
 
 		public JsonSchemaObject build() {
 			synchronized (this) {
+				if (this.strictPatterns) {
+					for (String patternProperty : this.patternProperties.keySet()) {
+						if (JsonSchemaPatterns.analyze(patternProperty) == JsonSchemaPatternComplexity.EXPONENTIAL) {
+							throw new IllegalArgumentException("patternProperty must not have exponential complexity");
+						}
+					}
+
+					if (this.propertyNames != null && JsonSchemaPatterns
+							.analyze(this.propertyNames) == JsonSchemaPatternComplexity.EXPONENTIAL) {
+						throw new IllegalArgumentException("propertyNames must not have exponential complexity");
+					}
+				}
+
 				return new JsonSchemaObject(this);
 			}
 		}
@@ -0,0 +1,737 @@
+/*
+ * Copyright 2020 Jared Hatfield, UnitVectorY Labs
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.unitvectory.jsonschemabuilder.draft7;
+
+import java.util.Arrays;
+
+/**
+ * Static analysis of a regular expression for catastrophic backtracking.
+ * 
+ * The pattern is parsed once and each sub-expression is summarized by whether
+ * it can match the empty string, the characters it can start and end with, and
+ * the characters consumed by variable-width quantifiers at its start and end. A
+ * quantified expression whose iterations can be split in more than one way is
+ * exponential; two unbounded quantifiers that can trade characters across a
+ * sequence are polynomial. This is a heuristic aimed at the usual nested
+ * quantifier and overlapping alternative forms: it may report a pattern as
+ * more complex than it is, and it does not find every polynomial case.
+ * 
+ * The parser follows ECMA 262 syntax and is lenient: it never rejects a
+ * pattern, and it also recognizes Java extensions such as possessive
+ * quantifiers and atomic groups.
+ */
+final class JsonSchemaPatternAnalyzer {
+
+	private static final int UNBOUNDED = -1;
+
+	/**
+	 * The largest repetition count of an ambiguous body that is still treated as
+	 * polynomial; above it the number of ways to split the input grows too fast
+	 * to be practical.
+	 */
+	private static final int SMALL_REPETITION = 4;
+
+	/**
+	 * The number of leading characters compared to tell alternatives apart.
+	 */
+	private static final int PREFIX_LENGTH = 8;
+
+	private final String pattern;
+
+	private int pos;
+
+	private JsonSchemaPatternAnalyzer(String pattern) {
+		this.pattern = pattern;
+		this.pos = 0;
+	}
+
+	static JsonSchemaPatternComplexity analyze(String pattern) {
+		JsonSchemaPatternAnalyzer analyzer = new JsonSchemaPatternAnalyzer(pattern);
+		Summary summary = analyzer.parseAlternation();
+
+		// An unbalanced ")" would end parsing early; analyze the remainder as well
+		while (analyzer.pos < pattern.length()) {
+			analyzer.pos++;
+			summary = Summary.sequence(summary, analyzer.parseAlternation());
+		}
+
+		return summary.complexity;
+	}
+
+	private int peek() {
+		if (this.pos >= this.pattern.length()) {
+			return -1;
+		}
+
+		return this.pattern.charAt(this.pos);
+	}
+
+	private int peek(int offset) {
+		if (this.pos + offset >= this.pattern.length()) {
+			return -1;
+		}
+
+		return this.pattern.charAt(this.pos + offset);
+	}
+
+	private boolean consume(char c) {
+		if (this.peek() == c) {
+			this.pos++;
+			return true;
+		}
+
+		return false;
+	}
+
+	private Summary parseAlternation() {
+		Summary summary = this.parseSequence();
+		while (this.consume('|')) {
+			summary = Summary.alternation(summary, this.parseSequence());
+		}
+
+		return summary;
+	}
+
+	private Summary parseSequence() {
+		Summary summary = Summary.empty();
+		while (this.peek() != -1 && this.peek() != '|' && this.peek() != ')') {
+			summary = Summary.sequence(summary, this.parseQuantified());
+		}
+
+		return summary;
+	}
+
+	private Summary parseQuantified() {
+		Summary atom = this.parseAtom();
+
+		while (true) {
+			int min;
+			int max;
+			int c = this.peek();
+			if (c == '*') {
+				this.pos++;
+				min = 0;
+				max = UNBOUNDED;
+			} else if (c == '+') {
+				this.pos++;
+				min = 1;
+				max = UNBOUNDED;
+			} else if (c == '?') {
+				this.pos++;
+				min = 0;
+				max = 1;
+			} else if (c == '{' && this.isBraceQuantifier()) {
+				this.pos++;
+				min = this.parseInt();
+				if (this.consume(',')) {
+					max = this.peek() == '}' ? UNBOUNDED : this.parseInt();
+				} else {
+					max = min;
+				}
+
+				this.consume('}');
+			} else {
+				return atom;
+			}
+
+			// Lazy quantifiers backtrack just as much as greedy ones, possessive
+			// quantifiers never give back what they have matched
+			boolean possessive = false;
+			if (!this.consume('?')) {
+				possessive = this.consume('+');
+			}
+
+			atom = Summary.quantified(atom, min, max, possessive);
+		}
+	}
+
+	private boolean isBraceQuantifier() {
+		int i = this.pos + 1;
+		int digits = 0;
+		while (i < this.pattern.length() && Character.isDigit(this.pattern.charAt(i))) {
+			i++;
+			digits++;
+		}
+
+		if (digits == 0) {
+			return false;
+		}
+
+		if (i < this.pattern.length() && this.pattern.charAt(i) == ',') {
+			i++;
+			while (i < this.pattern.length() && Character.isDigit(this.pattern.charAt(i))) {
+				i++;
+			}
+		}
+
+		return i < this.pattern.length() && this.pattern.charAt(i) == '}';
+	}
+
+	private int parseInt() {
+		long value = 0;
+		while (this.peek() != -1 && Character.isDigit(this.peek())) {
+			value = Math.min(Integer.MAX_VALUE, value * 10 + (this.peek() - '0'));
+			this.pos++;
+		}
+
+		return (int) value;
+	}
+
+	private Summary parseAtom() {
+		int c = this.peek();
+		this.pos++;
+
+		switch (c) {
+		case '^':
+		case '$':
+			return Summary.empty();
+		case '.':
+			return Summary.character(CharSet.DOT);
+		case '(':
+			return this.parseGroup();
+		case '[':
+			return Summary.character(this.parseClass());
+		case '\\':
+			return this.parseEscape();
+		default:
+			return Summary.character(CharSet.of(c));
+		}
+	}
+
+	private Summary parseGroup() {
+		boolean zeroWidth = false;
+		boolean atomic = false;
+
+		if (this.consume('?')) {
+			int c = this.peek();
+			if (c == ':') {
+				this.pos++;
+			} else if (c == '=' || c == '!') {
+				this.pos++;
+				zeroWidth = true;
+			} else if (c == '>') {
+				this.pos++;
+				atomic = true;
+			} else if (c == '<' && (this.peek(1) == '=' || this.peek(1) == '!')) {
+				this.pos += 2;
+				zeroWidth = true;
+			} else if (c == '<') {
+				while (this.peek() != -1 && this.peek() != '>') {
+					this.pos++;
+				}
+
+				this.consume('>');
+			} else {
+				// Inline flags such as (?i) or (?i:...)
+				while (this.peek() != -1 && this.peek() != ')' && this.peek() != ':') {
+					this.pos++;
+				}
+
+				if (!this.consume(':')) {
+					this.consume(')');
+					return Summary.empty();
+				}
+			}
+		}
+
+		Summary inner = this.parseAlternation();
+		this.consume(')');
+
+		if (zeroWidth) {
+			return Summary.zeroWidth(inner.complexity);
+		} else if (atomic) {
+			return Summary.atomic(inner);
+		}
+
+		return inner;
+	}
+
+	private Summary parseEscape() {
+		int c = this.peek();
+		if (c == -1) {
+			return Summary.character(CharSet.of('\\'));
+		}
+
+		this.pos++;
+
+		switch (c) {
+		case 'b':
+		case 'B':
+		case 'A':
+		case 'G':
+		case 'Z':
+		case 'z':
+			return Summary.empty();
+		case 'k':
+			if (this.consume('<')) {
+				while (this.peek() != -1 && this.peek() != '>') {
+					this.pos++;
+				}
+
+				this.consume('>');
+			}
+
+			return Summary.backreference();
+		case 'Q':
+			Summary quoted = Summary.empty();
+			while (this.peek() != -1 && !(this.peek() == '\\' && this.peek(1) == 'E')) {
+				quoted = Summary.sequence(quoted, Summary.character(CharSet.of(this.peek())));
+				this.pos++;
+			}
+
+			this.pos = Math.min(this.pattern.length(), this.pos + 2);
+			return quoted;
+		default:
+			if (c >= '1' && c <= '9') {
+				while (this.peek() != -1 && Character.isDigit(this.peek())) {
+					this.pos++;
+				}
+
+				return Summary.backreference();
+			}
+
+			return Summary.character(this.parseEscapeSet(c));
+		}
+	}
+
+	/**
+	 * Parses the remainder of an escape sequence that stands for one character or
+	 * a class of characters, the backslash and the character c having already been
+	 * consumed.
+	 */
+	private CharSet parseEscapeSet(int c) {
+		switch (c) {
+		case 'd':
+			return CharSet.DIGIT;
+		case 'D':
+			return CharSet.DIGIT.negate();
+		case 'w':
+			return CharSet.WORD;
+		case 'W':
+			return CharSet.WORD.negate();
+		case 's':
+			return CharSet.SPACE;
+		case 'S':
+			return CharSet.SPACE.negate();
+		case 'p':
+		case 'P':
+			if (this.consume('{')) {
+				while (this.peek() != -1 && this.peek() != '}') {
+					this.pos++;
+				}
+
+				this.consume('}');
+			} else if (this.peek() != -1) {
+				this.pos++;
+			}
+
+			return CharSet.ALL;
+		case 'n':
+			return CharSet.of('\n');
+		case 'r':
+			return CharSet.of('\r');
+		case 't':
+			return CharSet.of('\t');
+		case 'f':
+			return CharSet.of('\f');
+		case 'v':
+			return CharSet.of(0x0B);
+		case '0':
+			return CharSet.of(0);
+		case 'c':
+			if (this.peek() == -1) {
+				return CharSet.of('c');
+			}
+
+			this.pos++;
+			return CharSet.of(this.pattern.charAt(this.pos - 1) % 32);
+		case 'x':
+			return CharSet.of(this.parseHex(2));
+		case 'u':
+			return CharSet.of(this.parseHex(4));
+		default:
+			return CharSet.of(c);
+		}
+	}
+
+	private int parseHex(int digits) {
+		int value = 0;
+		if (this.consume('{')) {
+			while (this.peek() != -1 && this.peek() != '}') {
+				value = value * 16 + Math.max(0, Character.digit(this.peek(), 16));
+				this.pos++;
+			}
+
+			this.consume('}');
+			return value;
+		}
+
+		for (int i = 0; i < digits && this.peek() != -1 && Character.digit(this.peek(), 16) >= 0; i++) {
+			value = value * 16 + Character.digit(this.peek(), 16);
+			this.pos++;
+		}
+
+		return value;
+	}
+
+	private CharSet parseClass() {
+		boolean negated = this.consume('^');
+		CharSet set = CharSet.NONE;
+
+		// As in ECMA 262 a leading "]" closes the class, so [] matches nothing and
+		// [^] matches any character
+		while (this.peek() != -1 && this.peek() != ']') {
+			int low;
+			CharSet lowSet = null;
+			int c = this.peek();
+			this.pos++;
+
+			if (c == '\\' && this.peek() != -1) {
+				int e = this.peek();
+				this.pos++;
+				if (e == 'b') {
+					lowSet = CharSet.of('\b');
+				} else {
+					lowSet = this.parseEscapeSet(e);
+				}
+			} else {
+				lowSet = CharSet.of(c);
+			}
+
+			low = lowSet.single();
+			if (low >= 0 && this.peek() == '-' && this.peek(1) != ']' && this.peek(1) != -1) {
+				this.pos++;
+				int c2 = this.peek();
+				this.pos++;
+				CharSet highSet = CharSet.of(c2);
+				if (c2 == '\\' && this.peek() != -1) {
+					int e = this.peek();
+					this.pos++;
+					highSet = e == 'b' ? CharSet.of('\b') : this.parseEscapeSet(e);
+				}
+
+				int high = highSet.single();
+
+				if (high >= 0) {
+					set = set.union(CharSet.range(low, high));
+					continue;
+				}
+
+				set = set.union(lowSet).union(CharSet.of('-')).union(highSet);
+				continue;
+			}
+
+			set = set.union(lowSet);
+		}
+
+		this.consume(']');
+		return negated ? set.negate() : set;
+	}
+
+	/**
+	 * A set of characters tracked exactly for ASCII and as a single flag for
+	 * everything above it.
+	 */
+	static final class CharSet {
+
+		static final CharSet NONE = new CharSet(0L, 0L, false);
+
+		static final CharSet ALL = new CharSet(-1L, -1L, true);
+
+		static final CharSet DIGIT = range('0', '9');
+
+		static final CharSet WORD = range('a', 'z').union(range('A', 'Z')).union(DIGIT).union(of('_'));
+
+		static final CharSet SPACE = range(0x09, 0x0D).union(of(' ')).union(new CharSet(0L, 0L, true));
+
+		static final CharSet DOT = of('\n').union(of('\r')).negate();
+
+		private final long low;
+
+		private final long high;
+
+		private final boolean other;
+
+		private CharSet(long low, long high, boolean other) {
+			this.low = low;
+			this.high = high;
+			this.other = other;
+		}
+
+		static CharSet of(int c) {
+			return range(c, c);
+		}
+
+		static CharSet range(int from, int to) {
+			long low = 0L;
+			long high = 0L;
+			for (int c = Math.max(0, from); c <= Math.min(127, to); c++) {
+				if (c < 64) {
+					low |= 1L << c;
+				} else {
+					high |= 1L << (c - 64);
+				}
+			}
+
+			return new CharSet(low, high, to > 127);
+		}
+
+		CharSet union(CharSet other) {
+			return new CharSet(this.low | other.low, this.high | other.high, this.other || other.other);
+		}
+
+		CharSet negate() {
+			// Non-ASCII characters are tracked as a single flag, so the complement
+			// keeps it set to stay conservative
+			return new CharSet(~this.low, ~this.high, true);
+		}
+
+		boolean intersects(CharSet other) {
+			return (this.low & other.low) != 0 || (this.high & other.high) != 0 || (this.other && other.other);
+		}
+
+		/**
+		 * Returns the character if this set holds exactly one ASCII character, and -1
+		 * otherwise.
+		 */
+		int single() {
+			if (this.other) {
+				return -1;
+			} else if (this.high == 0 && Long.bitCount(this.low) == 1) {
+				return Long.numberOfTrailingZeros(this.low);
+			} else if (this.low == 0 && Long.bitCount(this.high) == 1) {
+				return 64 + Long.numberOfTrailingZeros(this.high);
+			}
+
+			return -1;
+		}
+	}
+
+	/**
+	 * The facts about a sub-expression needed to decide how it backtracks when it
+	 * is repeated or placed next to another sub-expression.
+	 */
+	private static final class Summary {
+
+		private static final CharSet[] NO_PREFIX = new CharSet[0];
+
+		/**
+		 * True if the expression can match the empty string.
+		 */
+		private final boolean nullable;
+
+		/**
+		 * The characters a non-empty match can start with.
+		 */
+		private final CharSet first;
+
+		/**
+		 * The characters a non-empty match can end with.
+		 */
+		private final CharSet last;
+
+		/**
+		 * The characters that a variable-width quantifier able to start a match
+		 * begins each iteration with.
+		 */
+		private final CharSet head;
+
+		/**
+		 * The characters that a variable-width quantifier able to end a match ends
+		 * each iteration with.
+		 */
+		private final CharSet tail;
+
+		/**
+		 * The characters each match can have at each of its leading positions, known
+		 * no further than the shortest match and at most PREFIX_LENGTH long.
+		 */
+		private final CharSet[] prefix;
+
+		/**
+		 * True if every match is exactly as long as the prefix, so that the prefix of
+		 * whatever follows continues it.
+		 */
+		private final boolean exact;
+
+		/**
+		 * True if the expression contains alternatives that can match the same text,
+		 * as far as their prefixes can tell them apart.
+		 */
+		private final boolean overlap;
+
+		private final JsonSchemaPatternComplexity complexity;
+
+		private Summary(boolean nullable, CharSet first, CharSet last, CharSet head, CharSet tail, CharSet[] prefix,
+				boolean exact, boolean overlap, JsonSchemaPatternComplexity complexity) {
+			this.nullable = nullable;
+			this.first = first;
+			this.last = last;
+			this.head = head;
+			this.tail = tail;
+			this.prefix = prefix;
+			this.exact = exact;
+			this.overlap = overlap;
+			this.complexity = complexity;
+		}
+
+		static Summary empty() {
+			return zeroWidth(JsonSchemaPatternComplexity.LINEAR);
+		}
+
+		static Summary zeroWidth(JsonSchemaPatternComplexity complexity) {
+			return new Summary(true, CharSet.NONE, CharSet.NONE, CharSet.NONE, CharSet.NONE, NO_PREFIX, true, false,
+					complexity);
+		}
+
+		static Summary character(CharSet set) {
+			return new Summary(false, set, set, CharSet.NONE, CharSet.NONE, new CharSet[] { set }, true, false,
+					JsonSchemaPatternComplexity.LINEAR);
+		}
+
+		static Summary backreference() {
+			return new Summary(true, CharSet.ALL, CharSet.ALL, CharSet.NONE, CharSet.NONE, NO_PREFIX, false, false,
+					JsonSchemaPatternComplexity.LINEAR);
+		}
+
+		static Summary atomic(Summary inner) {
+			return new Summary(inner.nullable, inner.first, inner.last, CharSet.NONE, CharSet.NONE, inner.prefix,
+					inner.exact, false, inner.complexity);
+		}
+
+		static Summary sequence(Summary left, Summary right) {
+			JsonSchemaPatternComplexity complexity = max(left.complexity, right.complexity);
+
+			// The loop ending the left side and the loop starting the right side can
+			// trade characters between them
+			if (left.tail.intersects(right.head)) {
+				complexity = max(complexity, JsonSchemaPatternComplexity.POLYNOMIAL);
+			}
+
+			CharSet first = left.nullable ? left.first.union(right.first) : left.first;
+			CharSet last = right.nullable ? right.last.union(left.last) : right.last;
+			CharSet head = left.nullable ? left.head.union(right.head) : left.head;
+			CharSet tail = right.nullable ? right.tail.union(left.tail) : right.tail;
+
+			// The right side continues the prefix only where the left side has a
+			// fixed length
+			CharSet[] prefix = left.prefix;
+			boolean exact = false;
+			if (left.exact) {
+				int length = Math.min(PREFIX_LENGTH, left.prefix.length + right.prefix.length);
+				prefix = Arrays.copyOf(left.prefix, length);
+				System.arraycopy(right.prefix, 0, prefix, left.prefix.length, length - left.prefix.length);
+				exact = right.exact && left.prefix.length + right.prefix.length <= PREFIX_LENGTH;
+			}
+
+			return new Summary(left.nullable && right.nullable, first, last, head, tail, prefix, exact,
+					left.overlap || right.overlap, complexity);
+		}
+
+		static Summary alternation(Summary left, Summary right) {
+			boolean overlap = left.overlap || right.overlap || overlaps(left, right);
+
+			CharSet[] prefix = new CharSet[Math.min(left.prefix.length, right.prefix.length)];
+			for (int i = 0; i < prefix.length; i++) {
+				prefix[i] = left.prefix[i].union(right.prefix[i]);
+			}
+
+			boolean exact = left.exact && right.exact && left.prefix.length == right.prefix.length;
+
+			return new Summary(left.nullable || right.nullable, left.first.union(right.first),
+					left.last.union(right.last), left.head.union(right.head), left.tail.union(right.tail), prefix,
+					exact, overlap, max(left.complexity, right.complexity));
+		}
+
+		/**
+		 * Returns true unless the alternatives differ at some position both of their
+		 * prefixes cover, such as ab and ac, and so can never match the same text.
+		 */
+		private static boolean overlaps(Summary left, Summary right) {
+			if (left.prefix.length == 0 || right.prefix.length == 0) {
+				return left.first.intersects(right.first);
+			}
+
+			for (int i = 0; i < Math.min(left.prefix.length, right.prefix.length); i++) {
+				if (!left.prefix[i].intersects(right.prefix[i])) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		static Summary quantified(Summary atom, int min, int max, boolean possessive) {
+			// Only the first iteration is sure to be there unless the count is fixed
+			// and every iteration has the same length
+			CharSet[] prefix = min == 0 ? NO_PREFIX : atom.prefix;
+			boolean exact = max == 0;
+			if (min == max && min > 0 && atom.exact) {
+				int length = (int) Math.min(PREFIX_LENGTH, (long) atom.prefix.length * min);
+				prefix = new CharSet[length];
+				for (int i = 0; i < length; i++) {
+					prefix[i] = atom.prefix[i % atom.prefix.length];
+				}
+
+				exact = (long) atom.prefix.length * min <= PREFIX_LENGTH;
+			}
+
+			if (possessive) {
+				return new Summary(min == 0 || atom.nullable, atom.first, atom.last, CharSet.NONE, CharSet.NONE,
+						prefix, exact, false, atom.complexity);
+			}
+
+			JsonSchemaPatternComplexity complexity = atom.complexity;
+
+			// A repetition whose body can match the same text in more than one way,
+			// either through an overlapping alternative or through an inner loop
+			// that can trade characters with the previous or next iteration
+			boolean ambiguous = atom.overlap || atom.tail.intersects(atom.first) || atom.head.intersects(atom.last);
+
+			if (max == UNBOUNDED) {
+				if (ambiguous) {
+					complexity = JsonSchemaPatternComplexity.EXPONENTIAL;
+				}
+
+				return new Summary(min == 0 || atom.nullable, atom.first, atom.last, atom.first.union(atom.head),
+						atom.last.union(atom.tail), prefix, exact, atom.overlap, complexity);
+			}
+
+			if (ambiguous && max > SMALL_REPETITION) {
+				complexity = JsonSchemaPatternComplexity.EXPONENTIAL;
+			} else if (ambiguous && max > 1) {
+				complexity = max(complexity, JsonSchemaPatternComplexity.POLYNOMIAL);
+			}
+
+			// A bounded repetition of variable width, such as a{1,10} or a?, can
+			// still give characters to a neighbouring loop and so counts as a loop
+			// itself
+			CharSet head = atom.head;
+			CharSet tail = atom.tail;
+			if (max > min) {
+				head = atom.first.union(atom.head);
+				tail = atom.last.union(atom.tail);
+			}
+
+			return new Summary(min == 0 || atom.nullable, atom.first, atom.last, head, tail, prefix, exact,
+					atom.overlap, complexity);
+		}
+
+		private static JsonSchemaPatternComplexity max(JsonSchemaPatternComplexity a, JsonSchemaPatternComplexity b) {
+			return a.compareTo(b) >= 0 ? a : b;
+		}
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2020 Jared Hatfield, UnitVectorY Labs
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.unitvectory.jsonschemabuilder.draft7;
+
+/**
+ * The worst-case matching time of a regular expression on a backtracking
+ * engine, as estimated by {@link JsonSchemaPatterns#analyze(String)}.
+ */
+public enum JsonSchemaPatternComplexity {
+
+	/**
+	 * Matching time grows linearly with the length of the input.
+	 */
+	LINEAR,
+
+	/**
+	 * Adjacent overlapping quantifiers, such as \d+\d+, can make matching time
+	 * grow polynomially with the length of the input.
+	 */
+	POLYNOMIAL,
+
+	/**
+	 * Nested quantifiers or overlapping alternatives under a quantifier, such as
+	 * (a+)+ or (a|aa)*, can make matching time grow exponentially with the length
+	 * of the input.
+	 */
+	EXPONENTIAL,
+
+	;
+}
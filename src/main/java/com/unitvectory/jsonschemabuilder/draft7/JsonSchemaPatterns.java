@@ -0,0 +1,48 @@
+/*
+ * Copyright 2020 Jared Hatfield, UnitVectorY Labs
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.unitvectory.jsonschemabuilder.draft7;
+
+/**
+ * Static analysis of the regular expressions used by the pattern,
+ * patternProperties and propertyNames keywords.
+ * 
+ * Patterns are read with ECMA 262 syntax and are never compiled; the builders
+ * store the pattern text unchanged for the validator that consumes the schema.
+ */
+public final class JsonSchemaPatterns {
+
+	private JsonSchemaPatterns() {
+	}
+
+	/**
+	 * Estimates the worst-case matching time of the regular expression on a
+	 * backtracking engine such as {@link java.util.regex}. Nested quantifiers and
+	 * overlapping alternatives under a quantifier are reported as exponential and
+	 * adjacent overlapping quantifiers as polynomial.
+	 * 
+	 * Only the ECMA 262 syntax is analyzed; the pattern is not compiled.
+	 * 
+	 * @param pattern
+	 * @return
+	 */
+	public static JsonSchemaPatternComplexity analyze(String pattern) {
+		if (pattern == null) {
+			throw new IllegalArgumentException("pattern must not be null");
+		}
+
+		return JsonSchemaPatternAnalyzer.analyze(pattern);
+	}
+}
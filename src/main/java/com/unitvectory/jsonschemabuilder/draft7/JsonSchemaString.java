@@ -42,6 +42,12 @@ public class JsonSchemaString extends AbstractJsonSchema {
 
 	private final String pattern;
 
+	private final JsonSchemaFormat format;
+
+	private final JsonSchemaContentEncoding contentEncoding;
+
+	private final String contentMediaType;
+
 	private final Set<String> enumSet;
 
 	private JsonSchemaString(Builder builder) {
@@ -53,6 +59,9 @@ public class JsonSchemaString extends AbstractJsonSchema {
 		this.minLength = builder.minLength;
 		this.maxLength = builder.maxLength;
 		this.pattern = builder.pattern;
+		this.format = builder.format;
+		this.contentEncoding = builder.contentEncoding;
+		this.contentMediaType = builder.contentMediaType;
 
 		Set<String> enumSetCopy = new TreeSet<String>();
 		enumSetCopy.addAll(builder.enumSet);
@@ -101,6 +110,18 @@ public class JsonSchemaString extends AbstractJsonSchema {
 			json.put("pattern", this.pattern);
 		}
 
+		if (this.format != null) {
+			json.put("format", this.format.getFormat());
+		}
+
+		if (this.contentEncoding != null) {
+			json.put("contentEncoding", this.contentEncoding.getEncoding());
+		}
+
+		if (this.contentMediaType != null) {
+			json.put("contentMediaType", this.contentMediaType);
+		}
+
 		if (this.enumSet.size() > 0) {
 			JSONArray enumArr = new JSONArray();
 			json.put("enum", enumArr);
@@ -135,6 +156,14 @@ public class JsonSchemaString extends AbstractJsonSchema {
 
 		private String pattern;
 
+		private boolean strictPatterns;
+
+		private JsonSchemaFormat format;
+
+		private JsonSchemaContentEncoding contentEncoding;
+
+		private String contentMediaType;
+
 		private Set<String> enumSet;
 
 		private Builder() {
@@ -277,6 +306,64 @@ public class JsonSchemaString extends AbstractJsonSchema {
 			}
 		}
 
+		/**
+		 * In strict mode the pattern is analyzed when the schema is built and a
+		 * pattern that can backtrack for an exponential amount of time is rejected.
+		 * The analysis errs on the safe side, so some linear patterns such as (a|ab)*
+		 * are rejected as well.
+		 * 
+		 * @return
+		 */
+		public Builder withStrictPatterns() {
+			synchronized (this) {
+				this.strictPatterns = true;
+				return this;
+			}
+		}
+
+		/**
+		 * The format keyword allows for basic semantic validation on certain kinds of
+		 * string values that are commonly used, such as dates, email addresses, host
+		 * names, IP addresses and URIs.
+		 * 
+		 * @param format
+		 * @return
+		 */
+		public Builder withFormat(JsonSchemaFormat format) {
+			synchronized (this) {
+				this.format = format;
+				return this;
+			}
+		}
+
+		/**
+		 * The contentEncoding keyword specifies the encoding used to store the
+		 * contents, such as base64 for binary data embedded in a string.
+		 * 
+		 * @param contentEncoding
+		 * @return
+		 */
+		public Builder withContentEncoding(JsonSchemaContentEncoding contentEncoding) {
+			synchronized (this) {
+				this.contentEncoding = contentEncoding;
+				return this;
+			}
+		}
+
+		/**
+		 * The contentMediaType keyword specifies the MIME type of the contents of a
+		 * string, as described in RFC 2046.
+		 * 
+		 * @param contentMediaType
+		 * @return
+		 */
+		public Builder withContentMediaType(String contentMediaType) {
+			synchronized (this) {
+				this.contentMediaType = contentMediaType;
+				return this;
+			}
+		}
+
 		/**
 		 * The enum keyword is used to restrict a value to a fixed set of values. It
 		 * must be an array with at least one element, where each element is unique.
@@ -297,6 +384,11 @@ public class JsonSchemaString extends AbstractJsonSchema {
 
 		public JsonSchemaString build() {
 			synchronized (this) {
+				if (this.strictPatterns && this.pattern != null
+						&& JsonSchemaPatterns.analyze(this.pattern) == JsonSchemaPatternComplexity.EXPONENTIAL) {
+					throw new IllegalArgumentException("pattern must not have exponential complexity");
+				}
+
 				return new JsonSchemaString(this);
 			}
 		}
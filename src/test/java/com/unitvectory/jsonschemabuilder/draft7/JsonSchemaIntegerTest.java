@@ -15,6 +15,10 @@
  */
 package com.unitvectory.jsonschemabuilder.draft7;
 
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+
 import org.json.JSONObject;
 import org.junit.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
@@ -113,4 +117,102 @@ public class JsonSchemaIntegerTest extends JsonSchemaBuilderTest {
 	public void testWithMultipleOfNegative() {
 		JsonSchemaInteger.create().withMultipleOf(-1).build().schemaJson();
 	}
+
+	@Test
+	public void testMinimumLong() {
+		JSONObject actualSchema = JsonSchemaInteger.create().withMinimum(1577836800000L).build().schemaJson();
+		JSONObject expectedSchema = new JSONObject("{\"type\":\"integer\",\"minimum\":1577836800000}");
+		JSONAssert.assertEquals(expectedSchema, actualSchema, true);
+	}
+
+	@Test
+	public void testMaximumLong() {
+		JSONObject actualSchema = JsonSchemaInteger.create().withMaximum(Long.MAX_VALUE).build().schemaJson();
+		assertTrue(actualSchema.toString().contains("\"maximum\":9223372036854775807"));
+	}
+
+	@Test
+	public void testExclusiveMinimumDecimal() {
+		JSONObject actualSchema = JsonSchemaInteger.create().withExclusiveMinimum(new BigDecimal("-12345678901234567890"))
+				.build().schemaJson();
+		assertTrue(actualSchema.toString().contains("\"exclusiveMinimum\":-12345678901234567890"));
+	}
+
+	@Test
+	public void testExclusiveMaximumDecimal() {
+		JSONObject actualSchema = JsonSchemaInteger.create().withExclusiveMaximum(new BigDecimal("12345678901234567890.5"))
+				.build().schemaJson();
+		assertTrue(actualSchema.toString().contains("\"exclusiveMaximum\":12345678901234567890.5"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWithMinimumNullDecimal() {
+		JsonSchemaInteger.create().withMinimum((BigDecimal) null).build().schemaJson();
+	}
+
+	@Test
+	public void testRange() {
+		JSONObject actualSchema = JsonSchemaInteger.create().withExclusiveMinimum(4).withExclusiveMaximum(6).build()
+				.schemaJson();
+		JSONObject expectedSchema = new JSONObject(
+				"{\"type\":\"integer\",\"exclusiveMinimum\":4,\"exclusiveMaximum\":6}");
+		JSONAssert.assertEquals(expectedSchema, actualSchema, true);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWithRangeEmpty() {
+		JsonSchemaInteger.create().withMinimum(10).withMaximum(9).build().schemaJson();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWithRangeEmptyNoInteger() {
+		JsonSchemaInteger.create().withExclusiveMinimum(4).withExclusiveMaximum(5).build().schemaJson();
+	}
+
+	@Test
+	public void testRangeDecimal() {
+		JSONObject actualSchema = JsonSchemaInteger.create().withExclusiveMinimum(new BigDecimal("0.3"))
+				.withMaximum(new BigDecimal("1.1")).build().schemaJson();
+		JSONObject expectedSchema = new JSONObject(
+				"{\"type\":\"integer\",\"exclusiveMinimum\":0.3,\"maximum\":1.1}");
+		JSONAssert.assertEquals(expectedSchema, actualSchema, true);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWithRangeEmptyDecimal() {
+		JsonSchemaInteger.create().withMinimum(new BigDecimal("4.2")).withMaximum(new BigDecimal("4.8")).build()
+				.schemaJson();
+	}
+
+	@Test
+	public void testRangeNarrowDecimal() {
+		JSONObject actualSchema = JsonSchemaInteger.create().withExclusiveMinimum(new BigDecimal("4.5"))
+				.withMaximum(5).build().schemaJson();
+		JSONObject expectedSchema = new JSONObject("{\"type\":\"integer\",\"exclusiveMinimum\":4.5,\"maximum\":5}");
+		JSONAssert.assertEquals(expectedSchema, actualSchema, true);
+	}
+
+	@Test(timeout = 1000)
+	public void testRangeLargeExponent() {
+		JsonSchemaInteger.create().withMinimum(new BigDecimal("1E+10000000")).withMaximum(new BigDecimal("2E+10000000"))
+				.build();
+		JsonSchemaInteger.create().withMinimum(new BigDecimal("1E+10000000"))
+				.withMaximum(new BigDecimal("1E+10000000")).build();
+	}
+
+	@Test(timeout = 1000, expected = IllegalArgumentException.class)
+	public void testWithRangeEmptyLargeExponent() {
+		JsonSchemaInteger.create().withExclusiveMinimum(new BigDecimal("1E+10000000"))
+				.withMaximum(new BigDecimal("1E+10000000")).build();
+	}
+
+	@Test
+	public void testAllKeywords() {
+		JSONObject actualSchema = JsonSchemaInteger.create().withRequired().withReadOnly().withMultipleOf(5)
+				.withMinimum(-10).withExclusiveMinimum(new BigDecimal("-20")).withMaximum(1000L)
+				.withExclusiveMaximum(new BigDecimal("2000.5")).build().schemaJson();
+		JSONObject expectedSchema = new JSONObject("{\"type\":\"integer\",\"readOnly\":true,\"multipleOf\":5,"
+				+ "\"minimum\":-10,\"exclusiveMinimum\":-20,\"maximum\":1000,\"exclusiveMaximum\":2000.5}");
+		JSONAssert.assertEquals(expectedSchema, actualSchema, true);
+	}
 }
@@ -15,6 +15,10 @@
  */
 package com.unitvectory.jsonschemabuilder.draft7;
 
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+
 import org.json.JSONObject;
 import org.junit.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
@@ -153,4 +157,100 @@ public class JsonSchemaNumberTest extends JsonSchemaBuilderTest {
 	public void testWithMultipleOfNegativeDouble() {
 		JsonSchemaNumber.create().withMultipleOf(-1.1).build().schemaJson();
 	}
+
+	@Test
+	public void testMinimumLong() {
+		JSONObject actualSchema = JsonSchemaNumber.create().withMinimum(1577836800000L).build().schemaJson();
+		JSONObject expectedSchema = new JSONObject("{\"type\":\"number\",\"minimum\":1577836800000}");
+		JSONAssert.assertEquals(expectedSchema, actualSchema, true);
+	}
+
+	@Test
+	public void testMaximumLong() {
+		JSONObject actualSchema = JsonSchemaNumber.create().withMaximum(Long.MAX_VALUE).build().schemaJson();
+		assertTrue(actualSchema.toString().contains("\"maximum\":9223372036854775807"));
+	}
+
+	@Test
+	public void testExclusiveMinimumDecimal() {
+		JSONObject actualSchema = JsonSchemaNumber.create().withExclusiveMinimum(new BigDecimal("-12345678901234567890"))
+				.build().schemaJson();
+		assertTrue(actualSchema.toString().contains("\"exclusiveMinimum\":-12345678901234567890"));
+	}
+
+	@Test
+	public void testExclusiveMaximumDecimal() {
+		JSONObject actualSchema = JsonSchemaNumber.create().withExclusiveMaximum(new BigDecimal("12345678901234567890.5"))
+				.build().schemaJson();
+		assertTrue(actualSchema.toString().contains("\"exclusiveMaximum\":12345678901234567890.5"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWithMinimumNullDecimal() {
+		JsonSchemaNumber.create().withMinimum((BigDecimal) null).build().schemaJson();
+	}
+
+	@Test
+	public void testRange() {
+		JSONObject actualSchema = JsonSchemaNumber.create().withMinimum(1.5).withMaximum(1.5).build().schemaJson();
+		JSONObject expectedSchema = new JSONObject("{\"type\":\"number\",\"minimum\":1.5,\"maximum\":1.5}");
+		JSONAssert.assertEquals(expectedSchema, actualSchema, true);
+	}
+
+	@Test
+	public void testRangeExclusive() {
+		JSONObject actualSchema = JsonSchemaNumber.create().withExclusiveMinimum(1).withExclusiveMaximum(1.0000001)
+				.build().schemaJson();
+		JSONObject expectedSchema = new JSONObject(
+				"{\"type\":\"number\",\"exclusiveMinimum\":1,\"exclusiveMaximum\":1.0000001}");
+		JSONAssert.assertEquals(expectedSchema, actualSchema, true);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWithRangeEmpty() {
+		JsonSchemaNumber.create().withMinimum(10).withMaximum(9.5).build().schemaJson();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWithRangeEmptyExclusive() {
+		JsonSchemaNumber.create().withMinimum(0.3).withExclusiveMaximum(new BigDecimal("0.3")).build().schemaJson();
+	}
+
+	@Test
+	public void testRangeDoubleAndDecimal() {
+		JSONObject actualSchema = JsonSchemaNumber.create().withMinimum(0.1).withMaximum(new BigDecimal("0.1")).build()
+				.schemaJson();
+		JSONObject expectedSchema = new JSONObject("{\"type\":\"number\",\"minimum\":0.1,\"maximum\":0.1}");
+		JSONAssert.assertEquals(expectedSchema, actualSchema, true);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWithRangeEmptyDoubleAndDecimal() {
+		JsonSchemaNumber.create().withExclusiveMinimum(new BigDecimal("0.1")).withMaximum(0.1).build().schemaJson();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWithRangeEmptyTighterBound() {
+		JsonSchemaNumber.create().withMinimum(0).withExclusiveMinimum(5L).withMaximum(5).build().schemaJson();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWithMinimumNaN() {
+		JsonSchemaNumber.create().withMinimum(Double.NaN).build().schemaJson();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWithMaximumInfinite() {
+		JsonSchemaNumber.create().withMaximum(Double.POSITIVE_INFINITY).build().schemaJson();
+	}
+
+	@Test
+	public void testAllKeywords() {
+		JSONObject actualSchema = JsonSchemaNumber.create().withRequired().withWriteOnly().withMultipleOf(0.25)
+				.withMinimum(new BigDecimal("0.5")).withExclusiveMinimum(-1).withMaximum(1000L)
+				.withExclusiveMaximum(1000.5).build().schemaJson();
+		JSONObject expectedSchema = new JSONObject("{\"type\":\"number\",\"writeOnly\":true,\"multipleOf\":0.25,"
+				+ "\"minimum\":0.5,\"exclusiveMinimum\":-1,\"maximum\":1000,\"exclusiveMaximum\":1000.5}");
+		JSONAssert.assertEquals(expectedSchema, actualSchema, true);
+	}
 }
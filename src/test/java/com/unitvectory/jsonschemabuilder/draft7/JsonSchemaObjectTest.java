@@ -177,6 +177,15 @@ public class JsonSchemaObjectTest extends JsonSchemaBuilderTest {
 		JsonSchemaObject.create().withPatternProperty("foo", null).build().schemaJson();
 	}
 
+	@Test
+	public void testPatternEcma() {
+		JSONObject actualSchema = JsonSchemaObject.create().withPatternProperty("[^]", JsonSchemaBoolean.create().build())
+				.withPropertyNames("^a{,3}$").build().schemaJson();
+		JSONObject expectedSchema = new JSONObject("{\"type\":\"object\",\"patternProperties\":{\"[^]\":"
+				+ "{\"type\":\"boolean\"}},\"propertyNames\":{\"pattern\":\"^a{,3}$\"}}");
+		JSONAssert.assertEquals(expectedSchema, actualSchema, true);
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void testWithMinProperties() {
 		JsonSchemaObject.create().withMinProperties(-1).build().schemaJson();
@@ -186,4 +195,15 @@ public class JsonSchemaObjectTest extends JsonSchemaBuilderTest {
 	public void testWithMaxProperties() {
 		JsonSchemaObject.create().withMaxProperties(-1).build().schemaJson();
 	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWithStrictPatternsPatternProperty() {
+		JsonSchemaObject.create().withPatternProperty("^(\\w+\\s?)*$", JsonSchemaBoolean.create().build())
+				.withStrictPatterns().build().schemaJson();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWithStrictPatternsPropertyNames() {
+		JsonSchemaObject.create().withPropertyNames("^([a-z]|[a-z0-9])+$").withStrictPatterns().build().schemaJson();
+	}
 }
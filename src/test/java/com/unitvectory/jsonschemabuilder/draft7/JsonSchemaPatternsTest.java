@@ -0,0 +1,65 @@
+/*
+ * Copyright 2020 Jared Hatfield, UnitVectorY Labs
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.unitvectory.jsonschemabuilder.draft7;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class JsonSchemaPatternsTest {
+
+	@Test
+	public void testAnalyzeLinear() {
+		String[] patterns = { ".*", "^INV-[0-9]+$", "@corp\\.com$", "^[a-z0-9]+(-[a-z0-9]+)*$",
+				"^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$", "^(a|b)*$", "^(ab+)*$",
+				"^([a-z]+\\.)*[a-z]+$", "^(?:\\d++)+$", "^[A-Za-z_][A-Za-z0-9_]*$", "^{[a-z]+}$", "x{", "[^]",
+				"^a{,3}$", "\\u{61}", "^([^]x)*$", "^(ab|ac)*$", "^(abc1|abc2|abd)+$",
+				"^(a{2}b|aac)*$" };
+		for (String pattern : patterns) {
+			assertEquals(pattern, JsonSchemaPatternComplexity.LINEAR, JsonSchemaPatterns.analyze(pattern));
+		}
+	}
+
+	@Test
+	public void testAnalyzePolynomial() {
+		String[] patterns = { "^\\d+\\d+$", "^.*.*=.*$", "^\\w+\\s?\\w+$", "^.*[0-9]+$", "^(a+){2}$" };
+		for (String pattern : patterns) {
+			assertEquals(pattern, JsonSchemaPatternComplexity.POLYNOMIAL, JsonSchemaPatterns.analyze(pattern));
+		}
+	}
+
+	@Test
+	public void testAnalyzeExponential() {
+		String[] patterns = { "^(a+)+$", "^(a*)*$", "^(a|a)*$", "^(a|aa)+$", "^(\\w+\\s?)*$", "^(.*a)*$",
+				"^([a-z]+[0-9]?)*$", "^(?:[a-z]|\\w)+@x$", "(x+x+)+y", "^(a+){1,40}$", "^(\\d+){2,60}$", "^([]|a+)*$",
+				"^(\\d{1,10})+$", "^(a{1,10})*$", "^(a?a?)+$", "^([a-z0-9]{1,63}\\.?)+$",
+				"^(ab|ac|ab)*$", "^(ab|a)*$" };
+		for (String pattern : patterns) {
+			assertEquals(pattern, JsonSchemaPatternComplexity.EXPONENTIAL, JsonSchemaPatterns.analyze(pattern));
+		}
+	}
+
+	@Test
+	public void testAnalyzeUnbalanced() {
+		assertEquals(JsonSchemaPatternComplexity.EXPONENTIAL, JsonSchemaPatterns.analyze("((a+)+"));
+		assertEquals(JsonSchemaPatternComplexity.LINEAR, JsonSchemaPatterns.analyze("a)b"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testAnalyzeNull() {
+		JsonSchemaPatterns.analyze(null);
+	}
+}
@@ -15,6 +15,8 @@
  */
 package com.unitvectory.jsonschemabuilder.draft7;
 
+import static org.junit.Assert.assertEquals;
+
 import org.json.JSONObject;
 import org.junit.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
@@ -95,6 +97,38 @@ public class JsonSchemaStringTest extends JsonSchemaBuilderTest {
 		JSONAssert.assertEquals(expectedSchema, actualSchema, true);
 	}
 
+	@Test
+	public void testFormat() {
+		JSONObject actualSchema = JsonSchemaString.create().withFormat(JsonSchemaFormat.DATE_TIME).build().schemaJson();
+		JSONObject expectedSchema = new JSONObject("{\"type\":\"string\",\"format\":\"date-time\"}");
+		JSONAssert.assertEquals(expectedSchema, actualSchema, true);
+	}
+
+	@Test
+	public void testFormatCleared() {
+		JSONObject actualSchema = JsonSchemaString.create().withFormat(JsonSchemaFormat.EMAIL).withFormat(null).build()
+				.schemaJson();
+		JSONObject expectedSchema = new JSONObject("{\"type\":\"string\"}");
+		JSONAssert.assertEquals(expectedSchema, actualSchema, true);
+	}
+
+	@Test
+	public void testContentEncoding() {
+		JSONObject actualSchema = JsonSchemaString.create().withContentEncoding(JsonSchemaContentEncoding.BASE64).build()
+				.schemaJson();
+		JSONObject expectedSchema = new JSONObject("{\"type\":\"string\",\"contentEncoding\":\"base64\"}");
+		JSONAssert.assertEquals(expectedSchema, actualSchema, true);
+	}
+
+	@Test
+	public void testContentMediaType() {
+		JSONObject actualSchema = JsonSchemaString.create().withContentEncoding(JsonSchemaContentEncoding.BASE64)
+				.withContentMediaType("image/png").build().schemaJson();
+		JSONObject expectedSchema = new JSONObject(
+				"{\"type\":\"string\",\"contentEncoding\":\"base64\",\"contentMediaType\":\"image/png\"}");
+		JSONAssert.assertEquals(expectedSchema, actualSchema, true);
+	}
+
 	@Test
 	public void testEnum() {
 		JSONObject actualSchema = JsonSchemaString.create().withEnumValue("A").withEnumValue("B").build().schemaJson();
@@ -111,4 +145,52 @@ public class JsonSchemaStringTest extends JsonSchemaBuilderTest {
 	public void testWithMaxLength() {
 		JsonSchemaString.create().withMaxLength(-1).build().schemaJson();
 	}
+
+	@Test
+	public void testPatternEcma() {
+		String[] patterns = { "^{[a-z]+}$", "x{", "[^]", "^a{,3}$", "\\u{61}" };
+		for (String pattern : patterns) {
+			JSONObject actualSchema = JsonSchemaString.create().withPattern(pattern).build().schemaJson();
+			assertEquals(pattern, actualSchema.getString("pattern"));
+		}
+	}
+
+	@Test
+	public void testStrictPatterns() {
+		JSONObject actualSchema = JsonSchemaString.create().withPattern("^[a-z]+$").withStrictPatterns().build()
+				.schemaJson();
+		JSONObject expectedSchema = new JSONObject("{\"type\":\"string\",\"pattern\":\"^[a-z]+$\"}");
+		JSONAssert.assertEquals(expectedSchema, actualSchema, true);
+	}
+
+	@Test
+	public void testStrictPatternsEcma() {
+		JSONObject actualSchema = JsonSchemaString.create().withPattern("^[^]{1,3}$").withStrictPatterns().build()
+				.schemaJson();
+		JSONObject expectedSchema = new JSONObject("{\"type\":\"string\",\"pattern\":\"^[^]{1,3}$\"}");
+		JSONAssert.assertEquals(expectedSchema, actualSchema, true);
+	}
+
+	@Test
+	public void testStrictPatternsDistinctAlternatives() {
+		JSONObject actualSchema = JsonSchemaString.create().withPattern("^(ab|ac)*$").withStrictPatterns().build()
+				.schemaJson();
+		JSONObject expectedSchema = new JSONObject("{\"type\":\"string\",\"pattern\":\"^(ab|ac)*$\"}");
+		JSONAssert.assertEquals(expectedSchema, actualSchema, true);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWithStrictPatternsBoundedRepetition() {
+		JsonSchemaString.create().withPattern("^(a+){1,40}$").withStrictPatterns().build().schemaJson();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWithStrictPatternsBoundedLoop() {
+		JsonSchemaString.create().withPattern("^([a-z0-9]{1,63}\\.?)+$").withStrictPatterns().build().schemaJson();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWithStrictPatternsExponential() {
+		JsonSchemaString.create().withPattern("^(a+)+$").withStrictPatterns().build().schemaJson();
+	}
 }